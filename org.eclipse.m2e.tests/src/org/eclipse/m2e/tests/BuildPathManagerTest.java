@@ -409,6 +409,35 @@ public class BuildPathManagerTest extends AbstractMavenProjectTestCase {
     assertEquals("downloadsources-t002-0.0.1-sources.jar", cp[1].getSourceAttachmentPath().lastSegment());
   }
 
+  @Test
+  public void testDownloadSources_001_overlappingRequests() throws Exception {
+    deleteSourcesAndJavadoc(new File(repo, "downloadsources/downloadsources-t001/0.0.1/"));
+    deleteSourcesAndJavadoc(new File(repo, "downloadsources/downloadsources-t002/0.0.1/"));
+
+    IProject project = createExisting("downloadsources-p001", "projects/downloadsources/p001");
+    waitForJobsToComplete();
+
+    IJavaProject javaProject = JavaCore.create(project);
+
+    // sanity check
+    IClasspathEntry[] cp = getClasspathEntries(project);
+    assertNullSourceAttachmentPaths(2, cp);
+
+    // project and per-root requests for the same artifacts, queued before any of them ran
+    getBuildPathManager().scheduleDownload(getPackageFragmentRoot(javaProject, cp[0]), true, false);
+    getBuildPathManager().scheduleDownload(project, true, false);
+    getBuildPathManager().scheduleDownload(getPackageFragmentRoot(javaProject, cp[1]), true, false);
+    getBuildPathManager().scheduleDownload(getPackageFragmentRoot(javaProject, cp[0]), true, false);
+    waitForJobsToComplete();
+
+    cp = getClasspathEntries(project);
+    assertEquals(2, cp.length);
+    assertEquals("downloadsources-t001-0.0.1.jar", cp[0].getPath().lastSegment());
+    assertEquals("downloadsources-t001-0.0.1-sources.jar", cp[0].getSourceAttachmentPath().lastSegment());
+    assertEquals("downloadsources-t002-0.0.1.jar", cp[1].getPath().lastSegment());
+    assertEquals("downloadsources-t002-0.0.1-sources.jar", cp[1].getSourceAttachmentPath().lastSegment());
+  }
+
   private IPackageFragmentRoot getPackageFragmentRoot(IJavaProject javaProject, IClasspathEntry cp)
       throws JavaModelException {
     return javaProject.findPackageFragmentRoot(cp.getPath());
@@ -438,6 +467,36 @@ public class BuildPathManagerTest extends AbstractMavenProjectTestCase {
     assertEquals("downloadsources-t002-0.0.1-sources.jar", cp[1].getSourceAttachmentPath().lastSegment());
   }
 
+  @Test
+  public void testDownloadSources_001_workspaceRestartSourcesAddedLocally() throws Exception {
+    File basedir = new File(repo, "downloadsources/downloadsources-t001/0.0.1/");
+    File sources = new File(basedir, "downloadsources-t001-0.0.1-sources.jar");
+    deleteSourcesAndJavadoc(basedir);
+    deleteSourcesAndJavadoc(new File(repo, "downloadsources/downloadsources-t002/0.0.1/"));
+
+    IProject project = createExisting("downloadsources-p001", "projects/downloadsources/p001");
+    waitForJobsToComplete();
+
+    // sanity check
+    IClasspathEntry[] cp = getClasspathEntries(project);
+    assertNullSourceAttachmentPaths(2, cp);
+
+    // purge MavenProject cache to simulate workspace restart
+    deserializeFromWorkspaceState(MavenPlugin.getMavenProjectRegistry().getProject(project));
+
+    // sources show up in the local repository without going through the build path manager
+    Files.copy(new File("repositories/testrepo/downloadsources/downloadsources-t001/0.0.1/" + sources.getName())
+        .toPath(), sources.toPath());
+
+    MavenPlugin.getProjectConfigurationManager().updateProjectConfiguration(project, monitor);
+    waitForJobsToComplete();
+
+    cp = getClasspathEntries(project);
+    assertEquals(2, cp.length);
+    assertEquals("downloadsources-t001-0.0.1-sources.jar", cp[0].getSourceAttachmentPath().lastSegment());
+    assertNull(cp[1].getSourceAttachmentPath());
+  }
+
   @Test
   public void testDownloadSources_001_sourceAttachment() throws Exception {
     new File(repo, "downloadsources/downloadsources-t001/0.0.1/downloadsources-t001-0.0.1-sources.jar").delete();
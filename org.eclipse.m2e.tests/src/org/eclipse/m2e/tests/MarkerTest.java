@@ -29,6 +29,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestName;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -283,12 +284,9 @@ public class MarkerTest extends AbstractMavenProjectTestCase {
 
     project.build(IncrementalProjectBuilder.FULL_BUILD, monitor);
     waitForJobsToComplete();
-    IMarker errorMarker = WorkspaceHelpers.assertErrorMarker(IMavenConstants.MARKER_BUILD_PARTICIPANT_ID,
-        AddMarkersProjectConfiguratorFoo.ERROR_MESSAGE, AddMarkersProjectConfiguratorFoo.ERROR_LINE_NUMBER,
-        AddMarkersProjectConfiguratorFoo.FILE_NAME, project);
-    IMarker warningMarker = WorkspaceHelpers.assertWarningMarker(IMavenConstants.MARKER_BUILD_PARTICIPANT_ID,
-        AddMarkersProjectConfiguratorFoo.WARNING_MESSAGE, AddMarkersProjectConfiguratorFoo.WARNING_LINE_NUMBER,
-        AddMarkersProjectConfiguratorFoo.FILE_NAME, project);
+    IMarker[] fooMarkers = assertFooMarkers(project);
+    IMarker errorMarker = fooMarkers[0];
+    IMarker warningMarker = fooMarkers[1];
 
     // An incremental build with interesting changes for only one of the project configurators should not remove the markers created by the other project configurator
     copyContent(project, AddMarkersProjectConfiguratorFoo.FILE_NAME, AddMarkersProjectConfiguratorBar.FILE_NAME);
@@ -299,24 +297,61 @@ public class MarkerTest extends AbstractMavenProjectTestCase {
     List<IMarker> warningMarkers = WorkspaceHelpers.findWarningMarkers(project);
     assertEquals(toString(warningMarkers), 2, errorMarkers.size());
     // Verify that the old markers for AddMarkersProjectConfiguratorFoo where not removed
-    IMarker newErrorMarker = WorkspaceHelpers.assertErrorMarker(IMavenConstants.MARKER_BUILD_PARTICIPANT_ID,
-        AddMarkersProjectConfiguratorFoo.ERROR_MESSAGE, AddMarkersProjectConfiguratorFoo.ERROR_LINE_NUMBER,
-        AddMarkersProjectConfiguratorFoo.FILE_NAME, project);
-    IMarker newWarningMarker = WorkspaceHelpers.assertWarningMarker(IMavenConstants.MARKER_BUILD_PARTICIPANT_ID,
-        AddMarkersProjectConfiguratorFoo.WARNING_MESSAGE, AddMarkersProjectConfiguratorFoo.WARNING_LINE_NUMBER,
-        AddMarkersProjectConfiguratorFoo.FILE_NAME, project);
+    IMarker[] newFooMarkers = assertFooMarkers(project);
+    IMarker newErrorMarker = newFooMarkers[0];
+    IMarker newWarningMarker = newFooMarkers[1];
     assertEquals(errorMarker.getId(), newErrorMarker.getId());
     assertEquals(errorMarker.getAttribute(IMarker.MESSAGE, null), newErrorMarker.getAttribute(IMarker.MESSAGE, null));
     assertEquals(warningMarker.getId(), newWarningMarker.getId());
     assertEquals(warningMarker.getAttribute(IMarker.MESSAGE, null),
         newWarningMarker.getAttribute(IMarker.MESSAGE, null));
     // Verify that the new markers for AddMarkersProjectConfiguratorBar where created
+    assertBarMarkers(project, AddMarkersProjectConfiguratorBar.FILE_NAME);
+  }
+
+  @Test
+  public void testBuildContextWithTwoProjectConfiguratorsRepeatedFullBuild() throws Exception {
+    IProject project = createExisting("markerTest", "projects/markers/testBuildContextWithTwoProjectConfigurators");
+    waitForJobsToComplete();
+    assertNotNull("Expected not null project", project);
+    WorkspaceHelpers.assertNoErrors(project);
+    copyContent(project, AddMarkersProjectConfiguratorFoo.FILE_NAME, AddMarkersProjectConfiguratorBar.FILE_NAME);
+
+    project.build(IncrementalProjectBuilder.FULL_BUILD, monitor);
+    waitForJobsToComplete();
+    List<IMarker> errorMarkers = WorkspaceHelpers.findErrorMarkers(project);
+    assertEquals(toString(errorMarkers), 2, errorMarkers.size());
+    assertFooMarkers(project);
+    assertBarMarkers(project, AddMarkersProjectConfiguratorBar.FILE_NAME);
+
+    // A second input of one project configurator shows up, the next full build must report on all inputs of both
+    copyContent(project, AddMarkersProjectConfiguratorFoo.FILE_NAME, AddMarkersProjectConfiguratorBar.FILE_NAME1);
+    project.build(IncrementalProjectBuilder.FULL_BUILD, monitor);
+    waitForJobsToComplete();
+    errorMarkers = WorkspaceHelpers.findErrorMarkers(project);
+    assertEquals(toString(errorMarkers), 3, errorMarkers.size());
+    assertFooMarkers(project);
+    assertBarMarkers(project, AddMarkersProjectConfiguratorBar.FILE_NAME);
+    assertBarMarkers(project, AddMarkersProjectConfiguratorBar.FILE_NAME1);
+  }
+
+  private IMarker[] assertFooMarkers(IProject project) throws Exception {
+    IMarker errorMarker = WorkspaceHelpers.assertErrorMarker(IMavenConstants.MARKER_BUILD_PARTICIPANT_ID,
+        AddMarkersProjectConfiguratorFoo.ERROR_MESSAGE, AddMarkersProjectConfiguratorFoo.ERROR_LINE_NUMBER,
+        AddMarkersProjectConfiguratorFoo.FILE_NAME, project);
+    IMarker warningMarker = WorkspaceHelpers.assertWarningMarker(IMavenConstants.MARKER_BUILD_PARTICIPANT_ID,
+        AddMarkersProjectConfiguratorFoo.WARNING_MESSAGE, AddMarkersProjectConfiguratorFoo.WARNING_LINE_NUMBER,
+        AddMarkersProjectConfiguratorFoo.FILE_NAME, project);
+    return new IMarker[] {errorMarker, warningMarker};
+  }
+
+  private void assertBarMarkers(IProject project, String fileName) throws Exception {
     WorkspaceHelpers.assertErrorMarker(IMavenConstants.MARKER_BUILD_PARTICIPANT_ID,
-        AddMarkersProjectConfiguratorBar.ERROR_MESSAGE, AddMarkersProjectConfiguratorBar.ERROR_LINE_NUMBER,
-        AddMarkersProjectConfiguratorBar.FILE_NAME, project);
+        AddMarkersProjectConfiguratorBar.ERROR_MESSAGE, AddMarkersProjectConfiguratorBar.ERROR_LINE_NUMBER, fileName,
+        project);
     WorkspaceHelpers.assertWarningMarker(IMavenConstants.MARKER_BUILD_PARTICIPANT_ID,
         AddMarkersProjectConfiguratorBar.WARNING_MESSAGE, AddMarkersProjectConfiguratorBar.WARNING_LINE_NUMBER,
-        AddMarkersProjectConfiguratorBar.FILE_NAME, project);
+        fileName, project);
   }
 
   @Test
@@ -446,6 +481,31 @@ public class MarkerTest extends AbstractMavenProjectTestCase {
 
   }
 
+  @Test
+  public void test361445_missingArtifactMarkerAttributesAfterRefresh() throws Exception {
+    IProject project = importProject("projects/markers/testArtifactNotFoundMarkerAttributes/pom.xml");
+    waitForJobsToComplete();
+    List<IMarker> markers = WorkspaceHelpers.findErrorMarkers(project);
+    assertEquals(WorkspaceHelpers.toString(markers), 3, markers.size());
+
+    // Refreshing an unchanged pom must neither duplicate nor strip the dependency markers
+    IFile pom = project.getFile(IMavenConstants.POM_FILE_NAME);
+    pom.setLocalTimeStamp(pom.getLocalTimeStamp() + 1000L);
+    pom.touch(monitor);
+    refreshMavenProject(project);
+    waitForJobsToComplete();
+
+    markers = WorkspaceHelpers.findErrorMarkers(project);
+    assertEquals(WorkspaceHelpers.toString(markers), 3, markers.size());
+    IMarker marker = WorkspaceHelpers.assertErrorMarker(IMavenConstants.MARKER_DEPENDENCY_ID,
+        "Missing artifact missing:missing:jar:0.0.0", 9 /*lineNumber*/, project);
+    assertEquals("missing", marker.getAttribute(IMavenConstants.MARKER_ATTR_GROUP_ID));
+    assertEquals("missing", marker.getAttribute(IMavenConstants.MARKER_ATTR_ARTIFACT_ID));
+    assertEquals("0.0.0", marker.getAttribute(IMavenConstants.MARKER_ATTR_VERSION));
+    assertEquals(3, marker.getAttribute(IMavenConstants.MARKER_COLUMN_START));
+    assertEquals(14, marker.getAttribute(IMavenConstants.MARKER_COLUMN_END));
+  }
+
   @Test
   public void test512825_missingArtifactVersion() throws Exception {
     IProject project = importProject("projects/markers/testArtifactMissingVersion/pom.xml");
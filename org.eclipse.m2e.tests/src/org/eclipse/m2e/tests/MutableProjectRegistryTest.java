@@ -15,12 +15,15 @@ package org.eclipse.m2e.tests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -40,6 +43,7 @@ import org.apache.maven.project.MavenProject;
 import org.eclipse.m2e.core.MavenPlugin;
 import org.eclipse.m2e.core.embedder.ArtifactKey;
 import org.eclipse.m2e.core.embedder.IMaven;
+import org.eclipse.m2e.core.internal.IMavenConstants;
 import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.internal.project.registry.Capability;
 import org.eclipse.m2e.core.internal.project.registry.IProjectRegistry;
@@ -230,6 +234,32 @@ public class MutableProjectRegistryTest extends AbstractMavenProjectTestCase {
     workspaceFile.delete();
   }
 
+  @Test
+  public void testReadWorkspaceStateAfterInterruptedSave() throws Exception {
+    File stateLocationDir = MavenPluginActivator.getDefault().getStateLocation().toFile();
+    File workspaceFile = new File(stateLocationDir, WORKSPACE_STATE_SER);
+    IProject project = importProject("projects/getmojoexecution/pom.xml");
+    IFile pom = project.getFile(IMavenConstants.POM_FILE_NAME);
+    try {
+      ResourcesPlugin.getWorkspace().save(true, null);
+
+      // the save participant persists the live registry
+      ProjectRegistryReader reader = new ProjectRegistryReader();
+      reader.setStateLocation(stateLocationDir);
+      ProjectRegistry state = reader.readWorkspaceState(null);
+      assertTrue(state.isValid());
+      assertNotNull(state.getProjectFacade(pom));
+
+      // emulate a writer killed halfway through the state file, the next startup must reject it
+      byte[] bytes = Files.readAllBytes(workspaceFile.toPath());
+      Files.write(workspaceFile.toPath(), Arrays.copyOf(bytes, bytes.length / 2));
+      state = reader.readWorkspaceState(null);
+      assertTrue(state == null || !state.isValid());
+    } finally {
+      workspaceFile.delete();
+    }
+  }
+
   @Test
   public void testForeignClassesInSerializedProjectRegistry() throws Exception {
     ProjectRegistry state = new ProjectRegistry();
@@ -257,6 +287,67 @@ public class MutableProjectRegistryTest extends AbstractMavenProjectTestCase {
     tmpDir.delete();
   }
 
+  @Test
+  public void testWorkspaceStateRoundTrip() throws Exception {
+    ProjectRegistry state = new ProjectRegistry();
+    MutableProjectRegistry delta = new MutableProjectRegistry(state);
+
+    IProject project = createExisting("dummy", "resources/dummy");
+    IFile pom1 = project.getFile("p1.xml");
+    IFile pom2 = project.getFile("p2.xml");
+    MavenProjectFacade f1 = newProjectFacade(pom1);
+    MavenProjectFacade f2 = newProjectFacade(pom2);
+    delta.setProject(pom1, f1);
+    delta.setProject(pom2, f2);
+    state.apply(delta);
+
+    File tmpDir = File.createTempFile("m2e-" + name.getMethodName(), "dir");
+    tmpDir.delete();
+    tmpDir.mkdir();
+    ProjectRegistryReader reader = new ProjectRegistryReader();
+    reader.setStateLocation(tmpDir);
+    reader.writeWorkspaceState(state);
+
+    state = reader.readWorkspaceState(null);
+    assertTrue(state.isValid());
+    assertEquals(2, state.getProjects().size());
+    assertEquals(f1.getArtifactKey(), state.getProjectFacade(pom1).getArtifactKey());
+    assertEquals(f2.getArtifactKey(), state.getProjectFacade(pom2).getArtifactKey());
+    assertEquals(1, getWorkspaceArtifacts(state, f1.getArtifactKey()).size());
+
+    new File(tmpDir, WORKSPACE_STATE_SER).delete();
+    tmpDir.delete();
+  }
+
+  @Test
+  public void testCorruptSerializedProjectRegistry() throws Exception {
+    ProjectRegistry state = new ProjectRegistry();
+    MutableProjectRegistry delta = new MutableProjectRegistry(state);
+
+    IProject project = createExisting("dummy", "resources/dummy");
+    IFile pom = project.getFile("p1.xml");
+    delta.setProject(pom, newProjectFacade(pom));
+    state.apply(delta);
+
+    File tmpDir = File.createTempFile("m2e-" + name.getMethodName(), "dir");
+    tmpDir.delete();
+    tmpDir.mkdir();
+    ProjectRegistryReader reader = new ProjectRegistryReader();
+    reader.setStateLocation(tmpDir);
+    reader.writeWorkspaceState(state);
+
+    // truncate the state file, reading it must neither fail nor return a usable registry
+    File stateFile = new File(tmpDir, WORKSPACE_STATE_SER);
+    byte[] bytes = Files.readAllBytes(stateFile.toPath());
+    Files.write(stateFile.toPath(), Arrays.copyOf(bytes, bytes.length / 2));
+
+    state = reader.readWorkspaceState(null);
+    assertTrue(state == null || !state.isValid());
+
+    stateFile.delete();
+    tmpDir.delete();
+  }
+
   private MavenProjectFacade newProjectFacade(IFile pom) throws Exception {
     MavenProject mavenProject = maven.readProject(pom.getLocation().toFile(), monitor);
     return new MavenProjectFacade(null, pom, mavenProject, null);
@@ -25,7 +25,9 @@ import static org.junit.Assert.fail;
 import java.io.File;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.After;
@@ -81,6 +83,7 @@ import org.eclipse.m2e.tests.common.HttxWagon;
 import org.eclipse.m2e.tests.common.MavenRunner;
 import org.eclipse.m2e.tests.common.RequireMavenExecutionContext;
 import org.eclipse.m2e.tests.common.WorkspaceHelpers;
+import org.eclipse.m2e.tests.project.MavenProjectUtil;
 
 @RunWith(MavenRunner.class)
 public class ProjectRegistryManagerTest extends AbstractMavenProjectTestCase {
@@ -1322,6 +1325,70 @@ public class ProjectRegistryManagerTest extends AbstractMavenProjectTestCase {
 
   }
 
+  @Test
+  public void test435692_affected_changesBatchMatchesPerProject() throws Exception {
+    String[] poms = {"parent/pom.xml", "p1/pom.xml", "p2/pom.xml", "p3/pom.xml", "p4/pom.xml"};
+
+    // all poms imported and refreshed together
+    IProject[] projects = importProjects("projects/435692_affected_changes", poms, new ResolverConfiguration());
+    waitForJobsToComplete();
+    Map<String, Set<String>> batchImported = MavenProjectUtil.getResolvedArtifacts(Arrays.asList(projects), monitor);
+    MavenProjectUtil.assertResolvedFromWorkspace(batchImported.get(projects[2].getName()), "test:435692-p1:jar:1.0",
+        projects[1]);
+    copyContent(projects[1], "pom_changedVersion.xml", "pom.xml"); // p1 1.0->2.0
+    Map<String, Set<String>> batchChanged = MavenProjectUtil.getResolvedArtifacts(Arrays.asList(projects), monitor);
+
+    // start over from a registry that knows none of the projects
+    for(IProject project : projects) {
+      deleteProject(project);
+    }
+    waitForJobsToComplete();
+    for(IProject project : projects) {
+      assertNull(manager.getProject(project));
+    }
+
+    // the same projects imported one at a time, dependents before their dependencies
+    for(int i = poms.length - 1; i >= 0; i-- ) {
+      projects[i] = importProject("projects/435692_affected_changes/" + poms[i]);
+    }
+    waitForJobsToComplete();
+    assertEquals(batchImported, MavenProjectUtil.getResolvedArtifacts(Arrays.asList(projects), monitor));
+    copyContent(projects[1], "pom_changedVersion.xml", "pom.xml"); // p1 1.0->2.0
+    assertEquals(batchChanged, MavenProjectUtil.getResolvedArtifacts(Arrays.asList(projects), monitor));
+  }
+
+  @Test
+  public void test435692_affected_unrelatedChanges() throws Exception {
+    importProject("projects/435692_affected_changes/parent/pom.xml");
+    importProject("projects/435692_affected_changes/p1/pom.xml");
+
+    // depends on p1:1.0 (from workspace), nothing depends on p2
+    IProject p2 = importProject("projects/435692_affected_changes/p2/pom.xml");
+
+    // depends on p1:1.1 (from repo), nothing depends on p3
+    IProject p3 = importProject("projects/435692_affected_changes/p3/pom.xml");
+
+    waitForJobsToComplete();
+
+    // 1. refresh of a leaf project must not pull in its dependencies or its parent
+    events.clear();
+    IFile pom = p2.getFile(IMavenConstants.POM_FILE_NAME);
+    pom.setLocalTimeStamp(pom.getLocalTimeStamp() + 1000L);
+    pom.touch(monitor);
+    refreshMavenProject(p2);
+    waitForJobsToComplete();
+    assertEquals(Set.of(p2 /* self */), getProjectsFromEvents(events));
+
+    // 2. removal of a leaf project must not affect any other project
+    events.clear();
+    p3.close(monitor);
+    waitForJobsToComplete();
+    assertEquals(1, events.size());
+    assertEquals(MavenProjectChangedEvent.KIND_REMOVED, events.get(0).getKind());
+    assertEquals(p3, events.get(0).getOldMavenProject().getProject());
+    assertNull(events.get(0).getMavenProject());
+  }
+
   @Test
   public void test436929_import_refresh() throws Exception {
 
@@ -135,6 +135,31 @@ public class ProjectRegistryRefreshJobTest extends AbstractMavenProjectTestCase
     assertEquals(785, LOCAL_ARTIFACT.length()); // from updateRepo2
   }
 
+  /*
+   * Forced update requested within a burst of non-forced requests must not be lost, however the requests are queued
+   */
+  @Test
+  public void testUpdateForcedWithinBurst() throws Exception {
+    // import project
+    project = importProject("projects/updateProject/simple/pom.xml");
+    waitForJobsToComplete();
+    WorkspaceHelpers.assertNoErrors(project);
+    assertEquals(338, LOCAL_ARTIFACT.length()); // from updateRepo1
+
+    mavenConfiguration.setUserSettingsFile(new File(SETTINGS_TWO).getAbsolutePath());
+    waitForJobsToComplete();
+
+    events.clear();
+    projectRefreshJob.refresh(new MavenUpdateRequest(project, false, false));
+    projectRefreshJob.refresh(new MavenUpdateRequest(project, false, true));
+    projectRefreshJob.refresh(new MavenUpdateRequest(project, false, false));
+    waitForJobsToComplete();
+    WorkspaceHelpers.assertNoErrors(project);
+
+    assertEquals(785, LOCAL_ARTIFACT.length()); // from updateRepo2
+    assertEquals(Set.of(project), getProjectsFromEvents(events));
+  }
+
   /*
    * Adding a new dependency should not force an update of the original
    */
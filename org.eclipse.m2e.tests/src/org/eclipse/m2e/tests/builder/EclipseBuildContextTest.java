@@ -17,6 +17,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -42,6 +43,31 @@ public class EclipseBuildContextTest extends AbstractMavenProjectTestCase {
     checkScanner(scanner);
   }
 
+  @Test
+  public void testScannerSeesFilesCreatedEarlierInBuild() throws Exception {
+    IProject project = importProject("projects/MNGECLIPSE-2144/pom.xml");
+
+    EclipseBuildContext context = newBuildContext(project);
+    File basedir = project.getLocation().toFile();
+
+    Scanner scanner = context.newScanner(basedir);
+    scanner.setIncludes(new String[] {"**/*.txt"});
+    scanner.scan();
+    List<String> included = Arrays.asList(scanner.getIncludedFiles());
+    assertEquals(included.toString(), 1, included.size());
+
+    // emulate a participant generating a file, later scanners of the same build must see it
+    File generated = new File(basedir, "src/main/resources/sub/generated.txt");
+    Files.writeString(generated.toPath(), "generated");
+
+    scanner = context.newScanner(new File(basedir, "src/main/resources"));
+    scanner.setIncludes(new String[] {"**/*.txt"});
+    scanner.scan();
+    included = Arrays.asList(scanner.getIncludedFiles());
+    assertEquals(included.toString(), 2, included.size());
+    assertTrue(included.toString(), included.contains("sub" + File.separator + "generated.txt"));
+  }
+
   private EclipseBuildContext newBuildContext(IProject project) {
     return new EclipseBuildContext(project, new HashMap<>(), new DummyBuildResultCollector());
   }
@@ -13,6 +13,7 @@
 
 package org.eclipse.m2e.tests.builder;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
@@ -33,15 +34,7 @@ public class EclipseIncrementalBuildContextTest extends AbstractMavenProjectTest
   public void testScanner() throws Exception {
     IProject project = importProject("projects/MNGECLIPSE-2144/pom.xml");
 
-    ResourceDeltaStub delta = new ResourceDeltaStub(project);
-    ResourceDeltaStub child = delta.addChild(new ResourceDeltaStub(project.getFolder("src")));
-    child = child.addChild(new ResourceDeltaStub(project.getFolder("src/main")));
-    child = child.addChild(new ResourceDeltaStub(project.getFolder("src/main/resources")));
-    child = child.addChild(new ResourceDeltaStub(project.getFolder("src/main/resources/sub")));
-    child = child.addChild(new ResourceDeltaStub(project.getFolder("src/main/resources/sub/dir")));
-    child = child.addChild(new ResourceDeltaStub(project.getFile("src/main/resources/sub/dir/file.txt")));
-
-    EclipseIncrementalBuildContext context = newBuildContext(delta);
+    EclipseIncrementalBuildContext context = newBuildContext(newDelta(project));
     Scanner scanner;
 
     scanner = context.newScanner(new File(project.getLocation().toFile(), "src/main/resources"), true);
@@ -54,6 +47,41 @@ public class EclipseIncrementalBuildContextTest extends AbstractMavenProjectTest
     checkBaseDirScanner(scanner);
   }
 
+  @Test
+  public void testScannersOfOneBuild() throws Exception {
+    IProject project = importProject("projects/MNGECLIPSE-2144/pom.xml");
+
+    // all scanners of one build see the same delta, but each one applies only its own patterns
+    EclipseIncrementalBuildContext context = newBuildContext(newDelta(project));
+    File resources = new File(project.getLocation().toFile(), "src/main/resources");
+
+    Scanner noMatch = context.newScanner(resources, false);
+    noMatch.setIncludes(new String[] {"**/*.java"});
+    noMatch.scan();
+    assertEquals(0, noMatch.getIncludedFiles().length);
+
+    checkResourcesScanner(context.newScanner(resources, false));
+
+    Scanner excluded = context.newScanner(resources, false);
+    excluded.setIncludes(new String[] {"**/*"});
+    excluded.setExcludes(new String[] {"sub/**"});
+    excluded.scan();
+    assertEquals(0, excluded.getIncludedFiles().length);
+
+    checkBaseDirScanner(context.newScanner(project.getLocation().toFile(), false));
+  }
+
+  private ResourceDeltaStub newDelta(IProject project) {
+    ResourceDeltaStub delta = new ResourceDeltaStub(project);
+    ResourceDeltaStub child = delta.addChild(new ResourceDeltaStub(project.getFolder("src")));
+    child = child.addChild(new ResourceDeltaStub(project.getFolder("src/main")));
+    child = child.addChild(new ResourceDeltaStub(project.getFolder("src/main/resources")));
+    child = child.addChild(new ResourceDeltaStub(project.getFolder("src/main/resources/sub")));
+    child = child.addChild(new ResourceDeltaStub(project.getFolder("src/main/resources/sub/dir")));
+    child = child.addChild(new ResourceDeltaStub(project.getFile("src/main/resources/sub/dir/file.txt")));
+    return delta;
+  }
+
   private EclipseIncrementalBuildContext newBuildContext(ResourceDeltaStub delta) {
     return new EclipseIncrementalBuildContext(delta, new HashMap<>(), new DummyBuildResultCollector());
   }
@@ -14,12 +14,16 @@
 package org.eclipse.m2e.tests.builder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
 
 import org.junit.Ignore;
@@ -29,6 +33,9 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ProjectScope;
 import org.eclipse.core.runtime.CoreException;
@@ -223,6 +230,25 @@ public class MavenBuilderTest extends AbstractMavenProjectTestCase {
     projects[1].build(IncrementalProjectBuilder.FULL_BUILD, monitor);
     waitForJobsToComplete();
 
+    assertCrossprojectBuildResults(projects);
+
+    // TODO test warning marker
+  }
+
+  @Test
+  public void test_crossproject_workspaceBuild() throws Exception {
+    IProject[] projects = importProjects("projects/resourcefiltering/crossproject", new String[] {"module-a/pom.xml",
+        "module-b/pom.xml"}, new ResolverConfiguration());
+    waitForJobsToComplete();
+
+    // same results when the workspace schedules the builds of both projects
+    workspace.build(IncrementalProjectBuilder.FULL_BUILD, monitor);
+    waitForJobsToComplete();
+
+    assertCrossprojectBuildResults(projects);
+  }
+
+  private void assertCrossprojectBuildResults(IProject[] projects) throws CoreException, IOException {
     IFile aFile = projects[0].getFile("temporary-filtered-resources/filtered.properties");
     assertTrue(aFile.isAccessible());
     Properties properties = loadProperties(aFile.getFullPath());
@@ -232,8 +258,6 @@ public class MavenBuilderTest extends AbstractMavenProjectTestCase {
     assertTrue(bFile.isAccessible());
     properties = loadProperties(bFile.getFullPath());
     assertEquals("model-b-value", properties.getProperty("key"));
-
-    // TODO test warning marker
   }
 
   @Test
@@ -307,6 +331,40 @@ public class MavenBuilderTest extends AbstractMavenProjectTestCase {
     assertTrue(folder.isSynchronized(IResource.DEPTH_INFINITE));
   }
 
+  @Test
+  public void test368380_buildContextDeepRefreshDelta() throws Exception {
+    IProject project = importProject("projects/368380_buildContextDeepRefreshFromLocal/pom.xml");
+    waitForJobsToComplete();
+    assertNoErrors(project);
+
+    IFolder folder = project.getFolder("target/custom");
+    if(folder.exists()) {
+      folder.delete(true, monitor);
+    }
+
+    // however the builder batches its refreshes, generated files must be reported to resource change listeners
+    IPath generated = project.getFile("target/custom/deep/nested/test.txt").getFullPath();
+    List<IResourceDelta> deltas = Collections.synchronizedList(new ArrayList<>());
+    IResourceChangeListener listener = event -> {
+      IResourceDelta delta = event.getDelta() != null ? event.getDelta().findMember(generated) : null;
+      if(delta != null) {
+        deltas.add(delta);
+      }
+    };
+    workspace.addResourceChangeListener(listener, IResourceChangeEvent.POST_CHANGE);
+    try {
+      project.build(IncrementalProjectBuilder.FULL_BUILD, monitor);
+      waitForJobsToComplete();
+    } finally {
+      workspace.removeResourceChangeListener(listener);
+    }
+
+    assertTrue(folder.isSynchronized(IResource.DEPTH_INFINITE));
+    assertTrue(workspace.getRoot().getFile(generated).exists());
+    assertFalse("Generated file was not reported in any resource delta", deltas.isEmpty());
+    assertEquals(IResourceDelta.ADDED, deltas.get(0).getKind());
+  }
+
   @Test
   public void test380096_cleanProjectWithLifecycleMappingProblemsAfterWorkspaceRestart() throws Exception {
     IProject project = importProject("projects/380096_cleanProjectWithLifecycleMappingProblemsAfterWorkspaceRestart/pom.xml");
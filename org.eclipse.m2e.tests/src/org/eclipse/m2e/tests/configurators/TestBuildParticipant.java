@@ -1,15 +1,24 @@
 
 package org.eclipse.m2e.tests.configurators;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.m2e.core.project.configurator.AbstractBuildParticipant;
 import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
 
 
 public class TestBuildParticipant extends AbstractBuildParticipant {
+  private static final Map<MojoExecutionKey, List<Integer>> invocations = new ConcurrentHashMap<>();
+
+  private static volatile boolean recording;
+
   public final MojoExecutionKey mojoExecutionKey;
 
   public TestBuildParticipant(MojoExecutionKey mojoExecutionKey) {
@@ -18,9 +27,46 @@ public class TestBuildParticipant extends AbstractBuildParticipant {
 
   @Override
   public Set<IProject> build(int kind, IProgressMonitor monitor) throws Exception {
+    record(kind);
     return null;
   }
 
+  @Override
+  public void clean(IProgressMonitor monitor) throws Exception {
+    record(IncrementalProjectBuilder.CLEAN_BUILD);
+  }
+
+  private void record(int kind) {
+    if(recording) {
+      invocations.computeIfAbsent(mojoExecutionKey, k -> new CopyOnWriteArrayList<>()).add(kind);
+    }
+  }
+
+  /**
+   * Starts recording invocations of all participants, discarding anything recorded before. Tests call this again to
+   * start a new phase.
+   */
+  public static void startRecording() {
+    invocations.clear();
+    recording = true;
+  }
+
+  /**
+   * Stops recording and discards recorded invocations.
+   */
+  public static void stopRecording() {
+    recording = false;
+    invocations.clear();
+  }
+
+  /**
+   * Returns build kinds participants of the given mojo execution were invoked with while recording, in invocation
+   * order. Clean invocations are reported as {@link IncrementalProjectBuilder#CLEAN_BUILD}.
+   */
+  public static List<Integer> getInvocations(MojoExecutionKey mojoExecutionKey) {
+    return List.copyOf(invocations.getOrDefault(mojoExecutionKey, List.of()));
+  }
+
   @Override
   public String toString() {
     return "TestBuildParticipant(" + mojoExecutionKey + ")";
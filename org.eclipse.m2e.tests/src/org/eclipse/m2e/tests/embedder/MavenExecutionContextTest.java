@@ -88,6 +88,25 @@ public class MavenExecutionContextTest extends AbstractMavenProjectTestCase {
     }, monitor);
   }
 
+  @Test
+  public void testSequentialContextsAreIsolated() throws Exception {
+    final String firstProperty = "first-property";
+    final MavenExecutionContext first = maven.createExecutionContext();
+    first.getExecutionRequest().getUserProperties().put(firstProperty, "true");
+    final MavenSession firstSession = first.execute((firstParam, monitor) -> {
+      assertTrue(firstParam.getSession().getUserProperties().containsKey(firstProperty));
+      assertTrue(firstParam.getRepositorySession().getUserProperties().containsKey(firstProperty));
+      return firstParam.getSession();
+    }, monitor);
+    // whatever the next context reuses from the first one, it must not see its session or user properties
+    maven.createExecutionContext().execute((secondParam, monitor) -> {
+      assertNotSame(firstSession, secondParam.getSession());
+      assertFalse(secondParam.getSession().getUserProperties().containsKey(firstProperty));
+      assertFalse(secondParam.getRepositorySession().getUserProperties().containsKey(firstProperty));
+      return null;
+    }, monitor);
+  }
+
   @Test
   public void testReenterShortcut() throws Exception {
     final MavenExecutionContext context = maven.createExecutionContext();
@@ -21,9 +21,12 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
 import java.util.regex.Matcher;
@@ -418,6 +421,30 @@ public class MavenImplTest extends AbstractMavenProjectTestCase {
     assertEquals("local-parent", parent.getArtifactId());
   }
 
+  @Test
+  public void testReadLocalParentAfterParentChange() throws Exception {
+    File basedir = new File("target/readparent-changed");
+    FileUtils.deleteDirectory(basedir);
+    FileUtils.copyDirectoryStructure(new File("projects/readparent/local"), basedir);
+    File pomFile = new File(basedir, "module01/pom.xml");
+
+    MavenExecutionResult result = readMavenProject(pomFile, false);
+    assertFalse(result.hasExceptions());
+    assertNull(result.getProject().getProperties().get("parent.property"));
+
+    // a parent model read before must not be reused once the parent pom changed
+    Path parentPom = new File(basedir, "pom.xml").toPath();
+    Files.writeString(parentPom, Files.readString(parentPom).replace("<build>",
+        "<properties><parent.property>changed</parent.property></properties>\n  <build>"));
+
+    result = readMavenProject(pomFile, false);
+    assertFalse(result.hasExceptions());
+    assertEquals("changed", result.getProject().getProperties().get("parent.property"));
+
+    MavenProject parent = maven.resolveParentProject(result.getProject(), monitor);
+    assertEquals("changed", parent.getProperties().get("parent.property"));
+  }
+
   @Test
   public void testReadRemoteParent() throws Exception {
     MavenExecutionResult result = readMavenProject(new File("projects/readparent/remote/module02/pom.xml"), false);
@@ -564,6 +591,35 @@ public class MavenImplTest extends AbstractMavenProjectTestCase {
     }
   }
 
+  @Test
+  public void test386196_ParallelDownloadsResolveEachFileOnce() throws Exception {
+    List<File> downloaded = Collections.synchronizedList(new ArrayList<>());
+    ILocalRepositoryListener listener = (repositoryBasedir, baseArtifact, artifact, artifactFile) -> downloaded
+        .add(artifactFile.getAbsoluteFile());
+
+    String origSettings = configuration.getUserSettingsFile();
+    maven.addLocalRepositoryListener(listener);
+    try {
+      configuration.setUserSettingsFile(new File("src/org/eclipse/m2e/tests/embedder/settings-emptylocal.xml")
+          .getCanonicalPath());
+
+      FileHelpers.deleteDirectory(new File("target/emptylocalrepo/"));
+
+      MavenExecutionResult result = readMavenProject(new File("projects/386196-parallel-downloads/pom.xml"), true);
+      assertFalse(result.getExceptions().toString(), result.hasExceptions());
+      for(Artifact artifact : result.getProject().getArtifacts()) {
+        assertTrue(artifact.toString(), artifact.getFile().isFile());
+      }
+
+      // however concurrent, every file of the transitive closure is fetched only once
+      assertFalse(downloaded.isEmpty());
+      assertEquals(downloaded.toString(), new HashSet<>(downloaded).size(), downloaded.size());
+    } finally {
+      maven.removeLocalRepositoryListener(listener);
+      configuration.setUserSettingsFile(origSettings);
+    }
+  }
+
   @Test
   public void test438454_guiceScopedComponentInjection() throws Exception {
     // the point of this test is to verify that @MojoExecutionScoped component can be instantiated and injected
@@ -13,9 +13,12 @@
 
 package org.eclipse.m2e.tests.internal.project;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +39,7 @@ import org.eclipse.m2e.core.internal.project.registry.ProjectRegistryManager;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
 import org.eclipse.m2e.core.project.configurator.AbstractProjectConfigurator;
 import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+import org.eclipse.m2e.tests.project.MavenProjectUtil;
 
 
 public class ImportSortOrderTestCase extends AbstractMavenProjectTestCase {
@@ -47,12 +51,20 @@ public class ImportSortOrderTestCase extends AbstractMavenProjectTestCase {
     return project;
   }
 
-  private List<IMavenProjectFacade> createFacades() throws Exception {
-
-    List<IMavenProjectFacade> facades = new ArrayList<>();
+  private List<IProject> createProjects() throws Exception {
 
     ProjectRegistryManager manager = MavenPluginActivator.getDefault().getMavenProjectManagerImpl();
 
+    List<IProject> projects = addProjects();
+
+    Set<IFile> pomFiles = getPomFiles(projects.toArray(IProject[]::new));
+    manager.refresh(pomFiles, monitor);
+
+    return projects;
+  }
+
+  private List<IProject> addProjects() throws Exception {
+
     List<IProject> projects = new ArrayList<>();
 
     projects.add(createProject("Pos", "projects/MNGECLIPSE-1028/pom.xml"));
@@ -74,16 +86,53 @@ public class ImportSortOrderTestCase extends AbstractMavenProjectTestCase {
     projects.add(createProject("PosConfigJar", "projects/MNGECLIPSE-1028/PosConfig/PosConfigJar/pom.xml"));
     projects.add(createProject("PosConfigWeb", "projects/MNGECLIPSE-1028/PosConfig/PosConfigWeb/pom.xml"));
 
-    Set<IFile> pomFiles = getPomFiles(projects.toArray(IProject[]::new));
-    manager.refresh(pomFiles, monitor);
+    return projects;
+  }
 
-    for(IProject project : projects) {
+  private List<IMavenProjectFacade> createFacades() throws Exception {
+
+    List<IMavenProjectFacade> facades = new ArrayList<>();
+
+    ProjectRegistryManager manager = MavenPluginActivator.getDefault().getMavenProjectManagerImpl();
+
+    for(IProject project : createProjects()) {
       facades.add(manager.create(project, monitor));
     }
 
     return facades;
   }
 
+  @Test
+  public void testBatchRefreshMatchesPerProjectRefresh() throws Exception {
+    ProjectRegistryManager manager = MavenPluginActivator.getDefault().getMavenProjectManagerImpl();
+
+    // all poms refreshed by a single ProjectRegistryManager.refresh call
+    List<IProject> projects = createProjects();
+    Map<String, Set<String>> batch = MavenProjectUtil.getResolvedArtifacts(projects, monitor);
+    MavenProjectUtil.assertResolvedFromWorkspace(batch.get("ClientWeb"), "test:PosConfigJar:jar:1.0-SNAPSHOT",
+        workspace.getRoot().getProject("PosConfigJar"));
+
+    // start over from a registry that knows none of the projects
+    for(IProject project : projects) {
+      deleteProject(project);
+    }
+    waitForJobsToComplete();
+    for(IProject project : projects) {
+      assertNull(manager.getProject(project));
+    }
+
+    // the same reactor refreshed one pom at a time, in reverse import order
+    projects = addProjects();
+    List<IProject> reversed = new ArrayList<>(projects);
+    Collections.reverse(reversed);
+    for(IProject project : reversed) {
+      manager.refresh(getPomFiles(project), monitor);
+    }
+
+    // both must resolve every project against the same workspace and repository artifacts
+    assertEquals(batch, MavenProjectUtil.getResolvedArtifacts(projects, monitor));
+  }
+
   @Test
   @Ignore
   public void testCollectionSortProject() throws Exception {
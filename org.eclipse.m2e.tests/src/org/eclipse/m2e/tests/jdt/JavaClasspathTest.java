@@ -23,6 +23,8 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -33,7 +35,9 @@ import java.util.stream.Stream;
 import org.junit.Assert;
 import org.junit.Test;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
@@ -47,6 +51,7 @@ import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
 
 import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.internal.IMavenConstants;
 import org.eclipse.m2e.core.project.ResolverConfiguration;
 import org.eclipse.m2e.jdt.IClasspathDescriptor;
 import org.eclipse.m2e.jdt.IClasspathEntryDescriptor;
@@ -440,6 +445,62 @@ public class JavaClasspathTest extends AbstractMavenProjectTestCase {
     assertNotTest(classpathEntries[1]);
   }
 
+  @Test
+  public void test526858_SameJarDifferentAttributesAcrossProjects() throws Exception {
+    IProject[] projects = importProjects("projects/526858-test-classpath/",
+        new String[] {"jar-dependencies/pom.xml", "project-dependencies-1/pom.xml", "project-dependencies-2/pom.xml"},
+        new ResolverConfiguration());
+
+    IClasspathEntry[] jarEntries = BuildPathManager.getMaven2ClasspathContainer(JavaCore.create(projects[0]))
+        .getClasspathEntries();
+    IClasspathEntry[] testEntries = BuildPathManager.getMaven2ClasspathContainer(JavaCore.create(projects[1]))
+        .getClasspathEntries();
+    IClasspathEntry[] mainEntries = BuildPathManager.getMaven2ClasspathContainer(JavaCore.create(projects[2]))
+        .getClasspathEntries();
+
+    // commons-io is on all three containers, equal entries would have to be shared, these must not be
+    assertEquals(testEntries[1].getPath(), mainEntries[1].getPath());
+    assertFalse(testEntries[1].equals(mainEntries[1]));
+
+    // updating one project leaves the containers of the others alone
+    updateProjectConfiguration(projects[1]);
+    assertTrue(Arrays.equals(jarEntries,
+        BuildPathManager.getMaven2ClasspathContainer(JavaCore.create(projects[0])).getClasspathEntries()));
+    assertTrue(Arrays.equals(mainEntries,
+        BuildPathManager.getMaven2ClasspathContainer(JavaCore.create(projects[2])).getClasspathEntries()));
+  }
+
+  @Test
+  public void test526858_ContainerEntriesStableOnUpdate() throws Exception {
+    IProject project = importProject("projects/526858-test-classpath/jar-dependencies/pom.xml");
+    IJavaProject javaProject = JavaCore.create(project);
+    IClasspathEntry[] originalEntries = BuildPathManager.getMaven2ClasspathContainer(javaProject)
+        .getClasspathEntries();
+    assertEquals("" + Arrays.asList(originalEntries), 6, originalEntries.length);
+
+    // nothing changed in the pom, so the container stays the same
+    updateProjectConfiguration(project);
+    IClasspathEntry[] updatedEntries = BuildPathManager.getMaven2ClasspathContainer(javaProject)
+        .getClasspathEntries();
+    assertEquals(Arrays.asList(originalEntries), Arrays.asList(updatedEntries));
+
+    // dropping a dependency keeps the order and attributes of the remaining entries
+    IFile pom = project.getFile(IMavenConstants.POM_FILE_NAME);
+    String content;
+    try (InputStream contents = pom.getContents()) {
+      content = new String(contents.readAllBytes(), pom.getCharset());
+    }
+    content = content.replaceFirst("(?s)<dependency>\\s*<groupId>junit</groupId>.*?</dependency>", "");
+    pom.setContents(new ByteArrayInputStream(content.getBytes(pom.getCharset())), IResource.FORCE, monitor);
+    updateProjectConfiguration(project);
+
+    List<IClasspathEntry> expectedEntries = Stream.of(originalEntries).filter(
+        e -> !e.getPath().lastSegment().startsWith("junit-") && !e.getPath().lastSegment().startsWith("hamcrest-"))
+        .collect(Collectors.toList());
+    updatedEntries = BuildPathManager.getMaven2ClasspathContainer(javaProject).getClasspathEntries();
+    assertEquals(expectedEntries, Arrays.asList(updatedEntries));
+  }
+
   @Test
   public void test537851_DisableTestClasspathFlag() throws Exception {
     IProject[] projects = importProjects("projects/537851-test-jar-in-compile-scope/",
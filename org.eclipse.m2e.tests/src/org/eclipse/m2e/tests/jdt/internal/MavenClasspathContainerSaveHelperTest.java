@@ -109,4 +109,49 @@ public class MavenClasspathContainerSaveHelperTest {
     }
   }
 
+  @Test
+  public void testClasspathContainerManyEntries() throws Exception {
+    // entries share repository prefixes and attribute names, as they do in real containers
+    IClasspathEntry[] entries = new IClasspathEntry[300];
+    for(int i = 0; i < entries.length; i++ ) {
+      String base = "/repo/org/example/a" + i + "/1.0/a" + i + "-1.0";
+      IAccessRule[] accessRules = new IAccessRule[] {
+          JavaCore.newAccessRule(IPath.fromOSString("org/example/**"), IAccessRule.K_ACCESSIBLE)};
+      IClasspathAttribute[] attributes = new IClasspathAttribute[] {
+          JavaCore.newClasspathAttribute("maven.groupId", "org.example"),
+          JavaCore.newClasspathAttribute("maven.artifactId", "a" + i)};
+      entries[i] = JavaCore.newLibraryEntry(IPath.fromOSString(base + ".jar"),
+          i % 2 == 0 ? IPath.fromOSString(base + "-sources.jar") : null, null, accessRules, attributes, i % 3 == 0);
+    }
+
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    helper.writeContainer(new MavenClasspathContainer(IPath.fromOSString(IClasspathManager.CONTAINER_ID), entries), os);
+
+    IClasspathEntry[] classpathEntries = helper.readContainer(new ByteArrayInputStream(os.toByteArray()))
+        .getClasspathEntries();
+    assertEquals(entries.length, classpathEntries.length);
+    for(int i = 0; i < entries.length; i++ ) {
+      IClasspathEntry entry = classpathEntries[i];
+      assertEquals(entries[i].getPath(), entry.getPath());
+      assertEquals(entries[i].getSourceAttachmentPath(), entry.getSourceAttachmentPath());
+      assertEquals(entries[i].isExported(), entry.isExported());
+      assertEquals(1, entry.getAccessRules().length);
+      assertEquals("org/example/**", entry.getAccessRules()[0].getPattern().toString());
+      assertEquals(2, entry.getExtraAttributes().length);
+      assertEquals("a" + i, entry.getExtraAttributes()[1].getValue());
+    }
+  }
+
+  @Test
+  public void testEmptyClasspathContainer() throws Exception {
+    ByteArrayOutputStream os = new ByteArrayOutputStream();
+    helper.writeContainer(
+        new MavenClasspathContainer(IPath.fromOSString(IClasspathManager.CONTAINER_ID), new IClasspathEntry[0]), os);
+
+    IClasspathContainer container = helper.readContainer(new ByteArrayInputStream(os.toByteArray()));
+
+    assertEquals(IClasspathManager.CONTAINER_ID, container.getPath().toString());
+    assertEquals(0, container.getClasspathEntries().length);
+  }
+
 }
@@ -638,6 +638,77 @@ public class LifecycleMappingTest extends AbstractLifecycleMappingTest {
     }
   }
 
+  @Test
+  public void testBuildParticipantInvocations() throws Exception {
+    runWithRecordedInvocations((project, mojoExecutionKeys) -> {
+      project.build(IncrementalProjectBuilder.FULL_BUILD, monitor);
+      waitForJobsToComplete();
+      assertInvocations(mojoExecutionKeys, IncrementalProjectBuilder.FULL_BUILD);
+
+      TestBuildParticipant.startRecording();
+      copyContent(project, "pom.xml", "x.txt");
+      project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, monitor);
+      waitForJobsToComplete();
+      assertInvocations(mojoExecutionKeys, IncrementalProjectBuilder.INCREMENTAL_BUILD);
+
+      TestBuildParticipant.startRecording();
+      project.build(IncrementalProjectBuilder.CLEAN_BUILD, monitor);
+      waitForJobsToComplete();
+      assertInvocations(mojoExecutionKeys, IncrementalProjectBuilder.CLEAN_BUILD);
+    });
+  }
+
+  @Test
+  public void testBuildParticipantInvocationsAfterPomChange() throws Exception {
+    runWithRecordedInvocations((project, mojoExecutionKeys) -> {
+      project.build(IncrementalProjectBuilder.FULL_BUILD, monitor);
+      waitForJobsToComplete();
+
+      // the pom is an input of every participant, an incremental build after a pom change must not skip any of them
+      TestBuildParticipant.startRecording();
+      IFile pom = project.getFile(IMavenConstants.POM_FILE_NAME);
+      pom.setLocalTimeStamp(pom.getLocalTimeStamp() + 1000L);
+      pom.touch(monitor);
+      refreshMavenProject(project);
+      waitForJobsToComplete();
+      project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, monitor);
+      waitForJobsToComplete();
+      assertInvocations(mojoExecutionKeys, IncrementalProjectBuilder.INCREMENTAL_BUILD);
+    });
+  }
+
+  private interface BuildParticipantScenario {
+    void run(IProject project, Set<MojoExecutionKey> mojoExecutionKeys) throws Exception;
+  }
+
+  /**
+   * Imports testSameConfiguratorUsedTwice and runs the scenario with its build participant invocations recorded.
+   */
+  private void runWithRecordedInvocations(BuildParticipantScenario scenario) throws Exception {
+    IMavenProjectFacade facade = importMavenProject("projects/lifecyclemapping/lifecycleMappingMetadata",
+        "testSameConfiguratorUsedTwice/pom.xml");
+    assertNotNull("Expected not null MavenProjectFacade", facade);
+    IProject project = facade.getProject();
+    WorkspaceHelpers.assertNoErrors(project);
+
+    ILifecycleMapping lifecycleMapping = projectConfigurationManager.getLifecycleMapping(facade);
+    Set<MojoExecutionKey> mojoExecutionKeys = lifecycleMapping.getBuildParticipants(facade, monitor).keySet();
+    assertEquals(mojoExecutionKeys.toString(), 2, mojoExecutionKeys.size());
+
+    TestBuildParticipant.startRecording();
+    try {
+      scenario.run(project, mojoExecutionKeys);
+    } finally {
+      TestBuildParticipant.stopRecording();
+    }
+  }
+
+  private void assertInvocations(Set<MojoExecutionKey> mojoExecutionKeys, int kind) {
+    for(MojoExecutionKey mojoExecutionKey : mojoExecutionKeys) {
+      assertEquals(mojoExecutionKey.toString(), List.of(kind), TestBuildParticipant.getInvocations(mojoExecutionKey));
+    }
+  }
+
   @Test
   public void testNonresolvableExecutionPlan() throws Exception {
     IMavenProjectFacade facade = importMavenProject("projects/lifecyclemapping",
@@ -68,6 +68,36 @@ public class MavenArchiverTest
         assertEquals( project.getLocation().toOSString(), properties.getProperty( "m2e.projectLocation" ) );
     }
     
+    @Test
+    public void test009_pomPropertiesStableAcrossFullBuilds() throws Exception {
+      IProject project = importProject("projects/pomproperties/pomproperties-p001/pom.xml",
+          new ResolverConfiguration());
+      waitForJobsToComplete();
+
+      IMavenProjectFacade facade = MavenPlugin.getMavenProjectRegistry().create(project, monitor);
+      ArtifactKey key = facade.getArtifactKey();
+
+      IPath pomPath = project
+          .getFolder("target/classes/META-INF/maven/" + key.groupId() + "/" + key.artifactId() + "/pom.xml")
+          .getFullPath();
+
+      IPath pomPropertiesPath = project
+          .getFolder(
+              "target/classes/META-INF/maven/" + key.groupId() + "/" + key.artifactId() + "/pom.properties")
+          .getFullPath();
+
+      project.build(IncrementalProjectBuilder.FULL_BUILD, monitor);
+      waitForJobsToComplete();
+      String pom = getAsString(pomPath);
+      Properties properties = loadProperties(pomPropertiesPath);
+
+      // without pom changes the generated content is the same, so it can be compared before it is written
+      project.build(IncrementalProjectBuilder.FULL_BUILD, monitor);
+      waitForJobsToComplete();
+      assertEquals(pom, getAsString(pomPath));
+      assertEquals(properties, loadProperties(pomPropertiesPath));
+    }
+
     @Test
     @Ignore("nedds to be adjusted")
     public void testIncrementalBuild() throws Exception {
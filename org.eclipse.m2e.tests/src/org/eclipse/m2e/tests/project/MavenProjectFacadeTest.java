@@ -8,11 +8,17 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Test;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.IPath;
 
 import org.apache.maven.plugin.MojoExecution;
@@ -20,6 +26,7 @@ import org.apache.maven.project.MavenProject;
 
 import org.eclipse.m2e.core.MavenPlugin;
 import org.eclipse.m2e.core.embedder.IMaven;
+import org.eclipse.m2e.core.internal.IMavenConstants;
 import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.internal.project.registry.ProjectRegistryManager;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
@@ -118,6 +125,26 @@ public class MavenProjectFacadeTest extends AbstractMavenProjectTestCase {
     assertSame(facade.getMavenProject(monitor), facade.getMavenProject(monitor));
   }
 
+  @RequireMavenExecutionContext(require = false)
+  @Test
+  public void testGetMavenProjectInsideAndOutsideMavenExecutionContext() throws Exception {
+    IProject project = createExisting("downloadsources-p001", "projects/downloadsources/p001");
+    waitForJobsToComplete();
+
+    IMavenProjectFacade facade = MavenPlugin.getMavenProjectRegistry().create(project, monitor);
+
+    MavenProject outside = facade.getMavenProject(monitor);
+    MavenProject inside = MavenPlugin.getMaven().createExecutionContext()
+        .execute((context, pm) -> facade.getMavenProject(pm), monitor);
+
+    // whether cached or reloaded, the facade must hand out an equivalent project
+    assertEquals(outside.getId(), inside.getId());
+    assertEquals(outside.getCompileSourceRoots(), inside.getCompileSourceRoots());
+    assertEquals(outside.getBuild().getOutputDirectory(), inside.getBuild().getOutputDirectory());
+    assertFalse(MavenProjectUtil.getResolvedArtifacts(outside).isEmpty());
+    assertEquals(MavenProjectUtil.getResolvedArtifacts(outside), MavenProjectUtil.getResolvedArtifacts(inside));
+  }
+
   @Test
   public void testGetMojoExecutionsAfterWorkspaceRestart() throws Exception {
     IProject project = importProject("projects/getmojoexecution/pom.xml");
@@ -137,6 +164,54 @@ public class MavenProjectFacadeTest extends AbstractMavenProjectTestCase {
     assertEquals("1.6", maven.getMojoParameterValue(mavenProject, executions.get(0), "target", String.class, monitor));
   }
 
+  @Test
+  public void testGetMojoParameterValueAfterPomChange() throws Exception {
+    IProject project = importProject("projects/getmojoexecution/pom.xml");
+    assertNoErrors(project);
+
+    final IMaven maven = MavenPlugin.getMaven();
+
+    IMavenProjectFacade facade = MavenPlugin.getMavenProjectRegistry().create(project, monitor);
+    List<MojoExecution> executions = facade.getMojoExecutions("org.apache.maven.plugins", "maven-compiler-plugin",
+        monitor, "compile");
+    assertEquals("1.6", maven.getMojoParameterValue(facade.getMavenProject(monitor), executions.get(0), "target",
+        String.class, monitor));
+
+    // parameter values computed for the old pom must not survive its refresh
+    IFile pom = project.getFile(IMavenConstants.POM_FILE_NAME);
+    String content;
+    try (InputStream contents = pom.getContents()) {
+      content = new String(contents.readAllBytes(), pom.getCharset());
+    }
+    pom.setContents(new ByteArrayInputStream(content.replace("<target>1.6</target>", "<target>1.7</target>")
+        .getBytes(pom.getCharset())), IResource.FORCE, monitor);
+    refreshMavenProject(project);
+    waitForJobsToComplete();
+
+    facade = MavenPlugin.getMavenProjectRegistry().create(project, monitor);
+    executions = facade.getMojoExecutions("org.apache.maven.plugins", "maven-compiler-plugin", monitor, "compile");
+    assertEquals(executions.toString(), 1, executions.size());
+    assertEquals("1.7", maven.getMojoParameterValue(facade.getMavenProject(monitor), executions.get(0), "target",
+        String.class, monitor));
+  }
+
+  @Test
+  public void testGetMojoExecutionMappingAfterWorkspaceRestart() throws Exception {
+    IProject project = importProject("projects/getmojoexecution/pom.xml");
+    assertNoErrors(project);
+
+    IMavenProjectFacade facade = MavenPlugin.getMavenProjectRegistry().create(project, monitor);
+    Set<MojoExecutionKey> executionKeys = new HashSet<>(facade.getMojoExecutionMapping().keySet());
+    String lifecycleMappingId = facade.getLifecycleMappingId();
+    assertFalse(executionKeys.isEmpty());
+
+    deserializeFromWorkspaceState(facade);
+
+    // restored state must be equivalent, regardless of how lazily it is decoded
+    assertEquals(lifecycleMappingId, facade.getLifecycleMappingId());
+    assertEquals(executionKeys, facade.getMojoExecutionMapping().keySet());
+  }
+
   @Test
   public void testGetProjectConfigurators() throws Exception {
     IProject project = importProject("projects/getmojoexecution/pom.xml");
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2008-2010 Sonatype, Inc.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *      Sonatype, Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.tests.project;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.project.MavenProject;
+
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+
+
+public class MavenProjectUtil {
+
+  /**
+   * Returns the resolved artifacts of the project as {@code "<id> -> <file>"} strings.
+   */
+  public static Set<String> getResolvedArtifacts(MavenProject mavenProject) {
+    Set<String> artifacts = new HashSet<>();
+    for(Artifact artifact : mavenProject.getArtifacts()) {
+      artifacts.add(artifact.getId() + " -> " + artifact.getFile());
+    }
+    return artifacts;
+  }
+
+  /**
+   * Returns the resolved artifacts of each project by project name, empty for projects without a facade.
+   */
+  public static Map<String, Set<String>> getResolvedArtifacts(Iterable<IProject> projects, IProgressMonitor monitor)
+      throws CoreException {
+    Map<String, Set<String>> result = new HashMap<>();
+    for(IProject project : projects) {
+      IMavenProjectFacade facade = MavenPlugin.getMavenProjectRegistry().create(project, monitor);
+      result.put(project.getName(),
+          facade != null ? getResolvedArtifacts(facade.getMavenProject(monitor)) : new HashSet<>());
+    }
+    return result;
+  }
+
+  /**
+   * Asserts that artifacts collected by {@link #getResolvedArtifacts(MavenProject)} contain the given artifact,
+   * resolved from the given workspace project.
+   */
+  public static void assertResolvedFromWorkspace(Set<String> artifacts, String artifactId, IProject project) {
+    String prefix = artifactId + " -> " + project.getLocation().toOSString();
+    assertTrue(artifacts.toString(), artifacts.stream().anyMatch(artifact -> artifact.startsWith(prefix)));
+  }
+}